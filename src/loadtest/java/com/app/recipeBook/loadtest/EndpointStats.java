@@ -0,0 +1,108 @@
+package com.app.recipeBook.loadtest;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency and status code statistics for one endpoint.
+ *
+ * Latencies are recorded in microseconds, measured from the time the request was
+ * scheduled to be sent rather than the time it was actually sent. They are kept
+ * apart per status class (2xx, 4xx, 429, 5xx, error), so that fast rejections do
+ * not mix with the latency of requests that were actually served.
+ */
+public class EndpointStats {
+
+    public static final String ERROR = "error";
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String endpoint;
+    private final Map<String, Histogram> latenciesByStatusClass = new ConcurrentSkipListMap<>();
+    private final Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    // Constructor with parameters
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    // Getter for endpoint
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    // Getter for latenciesByStatusClass, sorted by status class
+    public Map<String, Histogram> getLatenciesByStatusClass() {
+        return latenciesByStatusClass;
+    }
+
+    /**
+     * Maps a status to the class it is reported under. 429 gets its own class because
+     * it is the admission control rejection and is much faster than other 4xx.
+     *
+     * @param status The HTTP status code, or "error" if no response was received.
+     * @return The status class, e.g. "2xx", "429" or "error".
+     */
+    public static String statusClass(String status) {
+        if (ERROR.equals(status) || "429".equals(status)) {
+            return status;
+        }
+        return status.charAt(0) + "xx";
+    }
+
+    /**
+     * Records one completed request.
+     *
+     * @param latencyNanos The time from the intended start to the response.
+     * @param status The HTTP status code, or "error" if no response was received.
+     */
+    public void record(long latencyNanos, String status) {
+        latenciesByStatusClass
+            .computeIfAbsent(statusClass(status), key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+            .recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(latencyNanos))));
+        statusCounts.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Prints one report line per status class with throughput, latency percentiles
+     * in milliseconds and the count of each status code in that class.
+     *
+     * @param out The stream to print to.
+     * @param seconds The time from the first scheduled request to the last response.
+     */
+    public void printSummary(PrintStream out, double seconds) {
+        latenciesByStatusClass.forEach((statusClass, latencies) -> {
+            StringBuilder statuses = new StringBuilder();
+            statusCounts.entrySet().stream()
+                .filter(entry -> statusClass(entry.getKey()).equals(statusClass))
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> statuses.append(entry.getKey()).append('=').append(entry.getValue().sum()).append(' '));
+            printRow(out, endpoint + " [" + statusClass + "]", latencies, seconds, statuses.toString().trim());
+        });
+    }
+
+    static void printHeader(PrintStream out) {
+        out.printf("%-32s %8s %9s %9s %9s %9s %9s %9s  %s%n",
+            "endpoint [status class]", "count", "resp/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "status");
+    }
+
+    static void printRow(PrintStream out, String label, Histogram latencies, double seconds, String statuses) {
+        out.printf("%-32s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+            label,
+            latencies.getTotalCount(),
+            latencies.getTotalCount() / seconds,
+            latencies.getValueAtPercentile(50) / 1000.0,
+            latencies.getValueAtPercentile(90) / 1000.0,
+            latencies.getValueAtPercentile(99) / 1000.0,
+            latencies.getValueAtPercentile(99.9) / 1000.0,
+            latencies.getMaxValue() / 1000.0,
+            statuses);
+    }
+}
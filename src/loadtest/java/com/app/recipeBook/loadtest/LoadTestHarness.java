@@ -0,0 +1,277 @@
+package com.app.recipeBook.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.app.recipeBook.RecipeBookApplication;
+
+/**
+ * Boots the application on a random port and replays request mixes against it
+ * at a fixed rate, then reports latency percentiles and throughput per endpoint.
+ * Throughput is counted over the time until the last response arrived, so it shows
+ * what the server achieved rather than the rate the harness offered.
+ *
+ * The whole mix is first sent once in order to seed the database. The measured load
+ * then replays only the read-only requests, so every run sees the same data.
+ *
+ * Requests are sent open-loop: request i is scheduled at start + i / rate, whether
+ * or not earlier requests have completed, and its latency is measured from that
+ * scheduled time. A slow server therefore shows up as higher latency instead of a
+ * lower request rate, which avoids coordinated omission.
+ *
+ * Configuration is read from system properties:
+ * - loadtest.rate: requests per second (default 100).
+ * - loadtest.duration: length of the measured run in seconds (default 30).
+ * - loadtest.warmup: length of the unmeasured warmup in seconds (default 10).
+ * - loadtest.seed: seed for picking requests from the mix (default 42).
+ * - loadtest.collections: comma separated Postman collections to replay
+ *   (default test/recipeBook.postman_collection.json).
+ * - loadtest.jsonl: JSONL file with extra requests (optional).
+ * - loadtest.output: directory to write an .hgrm percentile file per endpoint and
+ *   status class (optional).
+ * - loadtest.creates: also replay recipe creations, with a fresh recipe and
+ *   ingredient names each time (default false).
+ * - loadtest.admission: keep the admission limits of the application instead of
+ *   lifting them (default false). The limits can then be set with -Dadmission.*.
+ */
+public class LoadTestHarness {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong replayCount = new AtomicLong();
+    private final URI baseUri;
+    private final List<RequestTemplate> mix;
+    private final List<RequestTemplate> replayed;
+
+    /**
+     * Creates a harness for the given request mix.
+     *
+     * @param baseUri The base URI of the application.
+     * @param mix The requests to seed the database with, in order.
+     * @param replayCreates Whether the measured load also creates recipes. Otherwise
+     *                      only read-only requests are replayed.
+     */
+    public LoadTestHarness(URI baseUri, List<RequestTemplate> mix, boolean replayCreates) {
+        this.baseUri = baseUri;
+        this.mix = mix;
+        this.replayed = mix.stream()
+            .filter(template -> template.isReadOnly() || (replayCreates && template.isCreate()))
+            .toList();
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = Double.parseDouble(System.getProperty("loadtest.rate", "100"));
+        long durationSeconds = Long.parseLong(System.getProperty("loadtest.duration", "30"));
+        long warmupSeconds = Long.parseLong(System.getProperty("loadtest.warmup", "10"));
+        long seed = Long.parseLong(System.getProperty("loadtest.seed", "42"));
+        String output = System.getProperty("loadtest.output");
+        boolean replayCreates = Boolean.getBoolean("loadtest.creates");
+
+        List<RequestTemplate> mix = loadMix();
+        if (mix.isEmpty()) {
+            throw new IllegalStateException("No requests found to replay");
+        }
+
+        ConfigurableApplicationContext context = SpringApplication.run(RecipeBookApplication.class, applicationArgs());
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            LoadTestHarness harness = new LoadTestHarness(URI.create("http://localhost:" + port), mix, replayCreates);
+            if (harness.replayed.isEmpty()) {
+                throw new IllegalStateException("No requests left to replay after seeding");
+            }
+
+            harness.seed();
+            System.out.printf("Warming up for %ds at %.1f req/s%n", warmupSeconds, rate);
+            harness.run(rate, warmupSeconds, new Random(seed));
+            System.out.printf("Measuring for %ds at %.1f req/s over %d request(s)%n", durationSeconds, rate, harness.replayed.size());
+            RunResult result = harness.run(rate, durationSeconds, new Random(seed + 1));
+
+            report(System.out, result);
+            if (output != null) {
+                writeHistograms(Path.of(output), result.getStats());
+            }
+        } finally {
+            SpringApplication.exit(context);
+        }
+    }
+
+    /**
+     * Builds the startup arguments of the application. Unless loadtest.admission is
+     * true, the admission limits are raised far above any rate the harness can send,
+     * so that filter requests reach the database instead of being rejected with 429.
+     */
+    private static String[] applicationArgs() {
+        List<String> args = new ArrayList<>(List.of("--server.port=0"));
+        if (!Boolean.getBoolean("loadtest.admission")) {
+            args.addAll(List.of(
+                "--admission.bucket.capacity=1000000000",
+                "--admission.bucket.refill-per-second=1000000000",
+                "--admission.heavy.max-concurrent=100000",
+                "--admission.heavy.max-per-client=100000"));
+        }
+        return args.toArray(new String[0]);
+    }
+
+    /**
+     * Sends every request of the mix once, in order and one at a time, so that the
+     * database holds the recipes the collections expect before load starts.
+     *
+     * The status codes are counted per endpoint and printed, with the non-2xx ones
+     * called out, since a failed seed leaves the reads with less data to return.
+     * A 5xx response or a request without a response stops the run.
+     *
+     * @return The count of each status code per endpoint, sorted by endpoint.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     * @throws IllegalStateException If a seed request failed on the server or got no response.
+     */
+    public Map<String, Map<String, Integer>> seed() throws InterruptedException {
+        Map<String, Map<String, Integer>> statuses = new TreeMap<>();
+        List<String> failures = new ArrayList<>();
+        for (RequestTemplate template : mix) {
+            String status;
+            try {
+                status = String.valueOf(httpClient.send(template.toHttpRequest(baseUri, REQUEST_TIMEOUT),
+                    HttpResponse.BodyHandlers.discarding()).statusCode());
+            } catch (IOException e) {
+                status = EndpointStats.ERROR;
+            }
+            statuses.computeIfAbsent(template.getEndpoint(), key -> new TreeMap<>()).merge(status, 1, Integer::sum);
+            String statusClass = EndpointStats.statusClass(status);
+            if ("5xx".equals(statusClass) || EndpointStats.ERROR.equals(statusClass)) {
+                failures.add(template.getMethod() + " " + template.getPath() + " -> " + status);
+            }
+        }
+
+        System.out.println("Seed responses:");
+        statuses.forEach((endpoint, counts) -> {
+            boolean allSuccessful = counts.keySet().stream().allMatch(status -> "2xx".equals(EndpointStats.statusClass(status)));
+            System.out.printf("  %-24s %s%s%n", endpoint, counts, allSuccessful ? "" : "  (not all 2xx)");
+        });
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException("Seeding failed, the database is not in the expected state: " + failures);
+        }
+        return statuses;
+    }
+
+    /**
+     * Replays randomly picked requests from the mix at a fixed rate and waits for
+     * all of them to complete.
+     *
+     * Only read-only requests are replayed, plus recipe creations with fresh names if
+     * enabled. Updates and deletes use fixed IDs, so after seeding they would only hit
+     * error paths or race each other, and the outcome would depend on timing.
+     *
+     * @param rate The number of requests to start per second.
+     * @param durationSeconds How long to keep starting requests.
+     * @param random The source used to pick requests from the mix.
+     * @return The statistics collected per endpoint and the time until the last response.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public RunResult run(double rate, long durationSeconds, Random random) throws InterruptedException {
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) (rate * durationSeconds);
+        long start = System.nanoTime();
+        AtomicLong lastResponse = new AtomicLong(start);
+
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + (long) (i * intervalNanos);
+            long delay;
+            while ((delay = intendedStart - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            RequestTemplate template = replayed.get(random.nextInt(replayed.size()));
+            if (template.isCreate()) {
+                template = template.withNameSuffix(" #" + replayCount.incrementAndGet());
+            }
+            EndpointStats endpointStats = stats.computeIfAbsent(template.getEndpoint(), EndpointStats::new);
+            inFlight.incrementAndGet();
+            httpClient.sendAsync(template.toHttpRequest(baseUri, REQUEST_TIMEOUT), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    String status = error != null ? "error" : String.valueOf(response.statusCode());
+                    long now = System.nanoTime();
+                    endpointStats.record(now - intendedStart, status);
+                    if (error == null) {
+                        lastResponse.accumulateAndGet(now, Math::max);
+                    }
+                    inFlight.decrementAndGet();
+                });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            System.out.println(inFlight.get() + " request(s) still in flight after " + DRAIN_TIMEOUT.toSeconds() + "s");
+        }
+        double elapsedSeconds = Math.max(lastResponse.get() - start, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+        return new RunResult(new TreeMap<>(stats), rate, elapsedSeconds);
+    }
+
+    private static List<RequestTemplate> loadMix() throws IOException {
+        RequestMixLoader loader = new RequestMixLoader();
+        List<RequestTemplate> mix = new ArrayList<>();
+        String collections = System.getProperty("loadtest.collections", "test/recipeBook.postman_collection.json");
+        for (String collection : collections.split(",")) {
+            if (!collection.isBlank()) {
+                mix.addAll(loader.loadPostmanCollection(Path.of(collection.trim())));
+            }
+        }
+        String jsonLines = System.getProperty("loadtest.jsonl");
+        if (jsonLines != null && !jsonLines.isBlank()) {
+            mix.addAll(loader.loadJsonLines(Path.of(jsonLines.trim())));
+        }
+        return mix;
+    }
+
+    private static void report(PrintStream out, RunResult result) {
+        double elapsedSeconds = result.getElapsedSeconds();
+        out.printf("Offered %.1f req/s, got %d response(s) in %.1fs until the last one: achieved %.1f resp/s%n",
+            result.getOfferedRate(), result.getResponseCount(), elapsedSeconds, result.getAchievedRate());
+        EndpointStats.printHeader(out);
+        Map<String, Histogram> totals = new TreeMap<>();
+        for (EndpointStats endpointStats : result.getStats().values()) {
+            endpointStats.printSummary(out, elapsedSeconds);
+            endpointStats.getLatenciesByStatusClass()
+                .forEach((statusClass, latencies) -> totals.computeIfAbsent(statusClass, key -> new Histogram(3)).add(latencies));
+        }
+        totals.forEach((statusClass, latencies) ->
+            EndpointStats.printRow(out, "TOTAL [" + statusClass + "]", latencies, elapsedSeconds, ""));
+    }
+
+    private static void writeHistograms(Path directory, Map<String, EndpointStats> stats) throws IOException {
+        Files.createDirectories(directory);
+        for (EndpointStats endpointStats : stats.values()) {
+            for (Map.Entry<String, Histogram> entry : endpointStats.getLatenciesByStatusClass().entrySet()) {
+                String fileName = (endpointStats.getEndpoint() + " " + entry.getKey()).replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+                try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(fileName)))) {
+                    entry.getValue().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+        }
+        System.out.println("Wrote percentile distributions to " + directory);
+    }
+}
@@ -0,0 +1,116 @@
+package com.app.recipeBook.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads request mixes from Postman collections (v2.1) and JSONL files.
+ *
+ * Each JSONL line describes one request:
+ * {"method": "POST", "path": "/recipes/filter", "body": {"isVegetarian": true}}
+ * The body can be a JSON object or a string. Lines that are not valid JSON or have
+ * no method and path are skipped. Postman requests that use {{variables}} are
+ * skipped too, since the harness does not run Postman scripts to resolve them.
+ */
+public class RequestMixLoader {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Loads every request of a Postman collection in collection order, including
+     * requests nested in folders.
+     *
+     * @param collection The path of the collection file.
+     * @return The list of requests.
+     * @throws IOException If the file cannot be read or parsed.
+     */
+    public List<RequestTemplate> loadPostmanCollection(Path collection) throws IOException {
+        List<RequestTemplate> requests = new ArrayList<>();
+        collectPostmanItems(objectMapper.readTree(collection.toFile()).path("item"), requests);
+        int loaded = requests.size();
+        requests.removeIf(RequestTemplate::hasVariables);
+        if (requests.size() < loaded) {
+            System.out.println("Skipped " + (loaded - requests.size()) + " request(s) of " + collection + " using Postman variables");
+        }
+        return requests;
+    }
+
+    /**
+     * Loads the requests of a JSONL file, skipping lines that do not describe one.
+     *
+     * @param file The path of the JSONL file.
+     * @return The list of requests.
+     * @throws IOException If the file cannot be read.
+     */
+    public List<RequestTemplate> loadJsonLines(Path file) throws IOException {
+        List<RequestTemplate> requests = new ArrayList<>();
+        int skipped = 0;
+        for (String line : Files.readAllLines(file)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                skipped++;
+                continue;
+            }
+            if (!node.hasNonNull("method") || !node.hasNonNull("path")) {
+                skipped++;
+                continue;
+            }
+            JsonNode body = node.path("body");
+            String rawBody = body.isMissingNode() || body.isNull() ? null
+                : body.isTextual() ? body.asText() : objectMapper.writeValueAsString(body);
+            requests.add(new RequestTemplate(node.get("method").asText(), node.get("path").asText(), rawBody, new LinkedHashMap<>()));
+        }
+        if (skipped > 0) {
+            System.out.println("Skipped " + skipped + " line(s) of " + file + " that are not requests");
+        }
+        return requests;
+    }
+
+    private void collectPostmanItems(JsonNode items, List<RequestTemplate> requests) {
+        for (JsonNode item : items) {
+            if (item.has("item")) {
+                collectPostmanItems(item.get("item"), requests);
+                continue;
+            }
+            JsonNode request = item.path("request");
+            if (!request.has("method")) {
+                continue;
+            }
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (JsonNode header : request.path("header")) {
+                if (!header.path("disabled").asBoolean(false)) {
+                    headers.put(header.path("key").asText(), header.path("value").asText());
+                }
+            }
+            JsonNode body = request.path("body");
+            String rawBody = "raw".equals(body.path("mode").asText()) ? body.path("raw").asText() : null;
+            requests.add(new RequestTemplate(request.get("method").asText(), postmanPath(request.path("url")), rawBody, headers));
+        }
+    }
+
+    private String postmanPath(JsonNode url) {
+        if (url.has("path")) {
+            List<String> segments = new ArrayList<>();
+            url.get("path").forEach(segment -> segments.add(segment.asText()));
+            return "/" + String.join("/", segments);
+        }
+        String raw = url.isTextual() ? url.asText() : url.path("raw").asText();
+        raw = raw.replaceFirst("^[a-z]+://", "");
+        int slash = raw.indexOf('/');
+        return slash < 0 ? "/" : raw.substring(slash);
+    }
+}
@@ -0,0 +1,134 @@
+package com.app.recipeBook.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A single request taken from a Postman collection or a JSONL file, ready to be
+ * sent against a running application.
+ */
+public class RequestTemplate {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String method;
+    private final String path;
+    private final String body;
+    private final Map<String, String> headers;
+
+    // Constructor with parameters
+    public RequestTemplate(String method, String path, String body, Map<String, String> headers) {
+        this.method = method.toUpperCase();
+        this.path = path.startsWith("/") ? path : "/" + path;
+        this.body = body;
+        this.headers = headers;
+    }
+
+    // Getter for method
+    public String getMethod() {
+        return method;
+    }
+
+    // Getter for path
+    public String getPath() {
+        return path;
+    }
+
+    // Getter for body
+    public String getBody() {
+        return body;
+    }
+
+    /**
+     * Checks whether the request leaves the database unchanged, so that replaying it
+     * any number of times in any order gives the same outcome.
+     *
+     * @return true for GET requests and recipe filter queries.
+     */
+    public boolean isReadOnly() {
+        return "GET".equals(method) || ("POST".equals(method) && "/recipes/filter".equals(path));
+    }
+
+    /**
+     * Checks whether the request adds a new recipe.
+     *
+     * @return true for POST /recipes.
+     */
+    public boolean isCreate() {
+        return "POST".equals(method) && "/recipes".equals(path);
+    }
+
+    /**
+     * Returns a copy of the request with the given suffix appended to the recipe name
+     * and to every ingredient name in the body, so that replaying it creates a new
+     * recipe instead of failing with a conflict.
+     *
+     * @param suffix The suffix to append, unique per replay.
+     * @return The renamed request, or this request if the body is not a JSON object.
+     */
+    public RequestTemplate withNameSuffix(String suffix) {
+        try {
+            JsonNode node = body == null ? null : OBJECT_MAPPER.readTree(body);
+            if (!(node instanceof ObjectNode recipe)) {
+                return this;
+            }
+            if (recipe.hasNonNull("name")) {
+                recipe.put("name", recipe.get("name").asText() + suffix);
+            }
+            for (JsonNode ingredient : recipe.path("ingredients")) {
+                if (ingredient instanceof ObjectNode named && named.hasNonNull("name")) {
+                    named.put("name", named.get("name").asText() + suffix);
+                }
+            }
+            return new RequestTemplate(method, path, OBJECT_MAPPER.writeValueAsString(recipe), headers);
+        } catch (JsonProcessingException e) {
+            return this;
+        }
+    }
+
+    /**
+     * Checks whether the path or body still holds unresolved Postman {{variables}}.
+     *
+     * @return true if the request cannot be sent as it is.
+     */
+    public boolean hasVariables() {
+        return path.contains("{{") || (body != null && body.contains("{{"));
+    }
+
+    /**
+     * Groups requests by endpoint, replacing numeric path segments with {id}
+     * so that /recipes/1 and /recipes/2 are reported together.
+     *
+     * @return The method and path template, e.g. "PUT /recipes/{id}".
+     */
+    public String getEndpoint() {
+        return method + " " + path.replaceAll("/\\d+(?=/|$)", "/{id}");
+    }
+
+    /**
+     * Builds the HTTP request for the application listening on the given base URI.
+     *
+     * @param baseUri The base URI of the application, e.g. http://localhost:8080.
+     * @param timeout The request timeout.
+     * @return The HttpRequest to send.
+     */
+    public HttpRequest toHttpRequest(URI baseUri, Duration timeout) {
+        HttpRequest.BodyPublisher publisher = body == null || body.isEmpty()
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofString(body);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(timeout)
+            .method(method, publisher);
+        headers.forEach(builder::header);
+        if (body != null && !body.isEmpty() && !headers.containsKey("Content-Type")) {
+            builder.header("Content-Type", "application/json");
+        }
+        return builder.build();
+    }
+}
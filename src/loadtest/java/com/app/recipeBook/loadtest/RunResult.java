@@ -0,0 +1,67 @@
+package com.app.recipeBook.loadtest;
+
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * The outcome of one measured run: the statistics per endpoint, the rate at which
+ * requests were offered, and the time from the first scheduled request to the last
+ * response, which is what the achieved throughput is computed over.
+ */
+public class RunResult {
+    private final Map<String, EndpointStats> stats;
+    private final double offeredRate;
+    private final double elapsedSeconds;
+
+    // Constructor with parameters
+    public RunResult(Map<String, EndpointStats> stats, double offeredRate, double elapsedSeconds) {
+        this.stats = stats;
+        this.offeredRate = offeredRate;
+        this.elapsedSeconds = elapsedSeconds;
+    }
+
+    // Getter for stats, sorted by endpoint
+    public Map<String, EndpointStats> getStats() {
+        return stats;
+    }
+
+    // Getter for offeredRate
+    public double getOfferedRate() {
+        return offeredRate;
+    }
+
+    // Getter for elapsedSeconds
+    public double getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    /**
+     * Counts the requests that got a response, leaving out timeouts and connection errors.
+     *
+     * @return The number of responses.
+     */
+    public long getResponseCount() {
+        long responses = 0;
+        for (EndpointStats endpointStats : stats.values()) {
+            for (Map.Entry<String, Histogram> entry : endpointStats.getLatenciesByStatusClass().entrySet()) {
+                if (!EndpointStats.ERROR.equals(entry.getKey())) {
+                    responses += entry.getValue().getTotalCount();
+                }
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Computes the throughput the server reached: responses per second between the
+     * first scheduled request and the last response. When the server cannot keep up,
+     * responses keep arriving after the last request was sent, so this is lower than
+     * the offered rate.
+     *
+     * @return The achieved throughput in responses per second.
+     */
+    public double getAchievedRate() {
+        return getResponseCount() / elapsedSeconds;
+    }
+}
@@ -1,6 +1,7 @@
 package com.app.recipeBook.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +20,8 @@ import java.util.Map;
 import com.app.recipeBook.model.Ingredient;
 import com.app.recipeBook.model.Recipe;
 import com.app.recipeBook.model.ApiResponse;
+import com.app.recipeBook.service.AdmissionControlService;
+import com.app.recipeBook.service.AdmissionDecision;
 import com.app.recipeBook.service.RecipeBookService;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -29,9 +32,11 @@ import jakarta.servlet.http.HttpServletRequest;
 public class RecipeBookController {
 
     private final RecipeBookService recipeBookService;
+    private final AdmissionControlService admissionControlService;
 
-    public RecipeBookController(RecipeBookService recipeBookService) {
+    public RecipeBookController(RecipeBookService recipeBookService, AdmissionControlService admissionControlService) {
         this.recipeBookService = recipeBookService;
+        this.admissionControlService = admissionControlService;
     }
 
     /**
@@ -66,12 +71,29 @@ public class RecipeBookController {
     /**
      * Filters recipes based on various criteria provided in JSON format.
      * 
+     * The request is admitted only if the client has enough tokens for the estimated
+     * cost of the criteria and, for heavy queries, a concurrency slot is free.
+     * Clients are identified by their remote address.
+     * 
      * @param criteriaJsonNode The JSON object containing filtering criteria.
-     * @return A ResponseEntity containing the filtered list of recipes or an error message.
+     * @param request The HTTP request.
+     * @return A ResponseEntity containing the filtered list of recipes, an error message,
+     *         or 429 Too Many Requests with a Retry-After header if the request was not admitted.
      */
     @PostMapping("/recipes/filter")
-    public ResponseEntity<?> filterBy(@RequestBody JsonNode criteriaJsonNode) {
-        return recipeBookService.filterBy(criteriaJsonNode);
+    public ResponseEntity<?> filterBy(@RequestBody JsonNode criteriaJsonNode, HttpServletRequest request) {
+        int cost = admissionControlService.estimateFilterCost(criteriaJsonNode);
+        AdmissionDecision decision = admissionControlService.tryAdmit(request.getRemoteAddr(), cost);
+        if (!decision.isAdmitted()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(decision.getRetryAfterSeconds()))
+                .body(new ApiResponse("429 TOO_MANY_REQUESTS"));
+        }
+        try {
+            return recipeBookService.filterBy(criteriaJsonNode);
+        } finally {
+            admissionControlService.release(decision);
+        }
     }
 
     /**
@@ -0,0 +1,196 @@
+package com.app.recipeBook.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+@Service
+public class AdmissionControlService {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final double bucketCapacity;
+    private final double refillPerSecond;
+    private final int heavyCostThreshold;
+    private final int heavyMaxPerClient;
+    private final int maxTrackedClients;
+    private final Semaphore heavyPermits;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, ClientState> clients = new ConcurrentHashMap<>();
+    private final ClientState overflowClient;
+    private final AtomicLong nextSweepNanos;
+
+    /**
+     * Constructs a new AdmissionControlService with the given limits.
+     *
+     * @param bucketCapacity The maximum number of tokens a client can accumulate (burst size).
+     * @param refillPerSecond The number of tokens added to each client's bucket per second.
+     * @param heavyCostThreshold The cost from which a filter query counts as heavy.
+     * @param heavyMaxConcurrent The maximum number of heavy filter queries running at the same time.
+     * @param heavyMaxPerClient The maximum number of heavy filter queries one client can run at the same time.
+     * @param maxTrackedClients The maximum number of clients with their own bucket.
+     */
+    @Autowired
+    public AdmissionControlService(
+            @Value("${admission.bucket.capacity:60}") double bucketCapacity,
+            @Value("${admission.bucket.refill-per-second:20}") double refillPerSecond,
+            @Value("${admission.heavy.cost-threshold:5}") int heavyCostThreshold,
+            @Value("${admission.heavy.max-concurrent:4}") int heavyMaxConcurrent,
+            @Value("${admission.heavy.max-per-client:1}") int heavyMaxPerClient,
+            @Value("${admission.max-tracked-clients:10000}") int maxTrackedClients) {
+        this(bucketCapacity, refillPerSecond, heavyCostThreshold, heavyMaxConcurrent, heavyMaxPerClient, maxTrackedClients, System::nanoTime);
+    }
+
+    AdmissionControlService(double bucketCapacity, double refillPerSecond, int heavyCostThreshold, int heavyMaxConcurrent,
+            int heavyMaxPerClient, int maxTrackedClients, LongSupplier nanoClock) {
+        if (bucketCapacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("admission.bucket.capacity and admission.bucket.refill-per-second must be positive");
+        }
+        if (heavyMaxConcurrent < 1 || heavyMaxPerClient < 1 || maxTrackedClients < 1) {
+            throw new IllegalArgumentException("admission.heavy.max-concurrent, admission.heavy.max-per-client and admission.max-tracked-clients must be at least 1");
+        }
+        this.bucketCapacity = bucketCapacity;
+        this.refillPerSecond = refillPerSecond;
+        this.heavyCostThreshold = heavyCostThreshold;
+        this.heavyMaxPerClient = heavyMaxPerClient;
+        this.maxTrackedClients = maxTrackedClients;
+        this.heavyPermits = new Semaphore(heavyMaxConcurrent);
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.overflowClient = new ClientState(new TokenBucket(bucketCapacity, refillPerSecond, now));
+        this.nextSweepNanos = new AtomicLong(now);
+    }
+
+    /**
+     * Estimates the cost of a filter query from the shape of its criteria.
+     *
+     * Equality checks on numberOfServings and isVegetarian are cheap and only add
+     * the base cost. Keyword searches in instructions cannot use an index, and the
+     * NOT LIKE variant has to scan every recipe. Ingredient criteria add a join and
+     * a subquery whose cost grows with the number of ingredient names given.
+     *
+     * @param criteriaJsonNode The JSON object containing filtering criteria.
+     * @return The estimated cost in tokens. It can exceed the bucket capacity; such a
+     *         request is still admitted from a full bucket.
+     */
+    public int estimateFilterCost(JsonNode criteriaJsonNode) {
+        int cost = 1;
+        if (criteriaJsonNode == null) {
+            return cost;
+        }
+        if (criteriaJsonNode.has("instructionsContaining")) {
+            cost += 2;
+        }
+        if (criteriaJsonNode.has("instructionsNotContaining")) {
+            cost += 4;
+        }
+        if (criteriaJsonNode.has("ingredientsContain")) {
+            cost += 1 + criteriaJsonNode.get("ingredientsContain").size() / 4;
+        }
+        if (criteriaJsonNode.has("ingredientsNotContain")) {
+            cost += 2 + criteriaJsonNode.get("ingredientsNotContain").size() / 2;
+        }
+        return cost;
+    }
+
+    /**
+     * Decides whether a request with the given cost may run now.
+     *
+     * Heavy requests first need one of the client's own heavy query slots, so a single
+     * client cannot take every shared permit, and then one of the shared permits, so a
+     * burst of expensive queries cannot occupy every database connection. Then the cost,
+     * capped at the bucket capacity, is taken from the client's token bucket. A rejected request holds no permit and
+     * no tokens. Callers must pass an admitted decision to
+     * {@link #release(AdmissionDecision)} once the request is done.
+     *
+     * @param clientId The key identifying the calling client.
+     * @param cost The estimated cost of the request.
+     * @return An AdmissionDecision telling whether the request was admitted and, if not,
+     *         how many seconds the client should wait before retrying.
+     */
+    public AdmissionDecision tryAdmit(String clientId, int cost) {
+        long now = nanoClock.getAsLong();
+        ClientState client = clientStateFor(clientId, now);
+
+        boolean heavy = cost >= heavyCostThreshold;
+        if (heavy) {
+            if (!client.tryAcquireHeavy(heavyMaxPerClient)) {
+                return new AdmissionDecision(false, 1, null);
+            }
+            if (!heavyPermits.tryAcquire()) {
+                client.releaseHeavy();
+                return new AdmissionDecision(false, 1, null);
+            }
+        }
+
+        long waitNanos = client.getBucket().tryConsume(Math.min(cost, bucketCapacity), now);
+        if (waitNanos > 0) {
+            if (heavy) {
+                releaseHeavy(client);
+            }
+            return new AdmissionDecision(false, retryAfterSeconds(waitNanos), null);
+        }
+        return new AdmissionDecision(true, 0, heavy ? () -> releaseHeavy(client) : null);
+    }
+
+    /**
+     * Releases the heavy query permits held by an admitted request. Only the first
+     * call for a decision releases anything.
+     *
+     * @param decision The decision returned by {@link #tryAdmit(String, int)}.
+     */
+    public void release(AdmissionDecision decision) {
+        decision.release();
+    }
+
+    private static long retryAfterSeconds(long waitNanos) {
+        long seconds = TimeUnit.NANOSECONDS.toSeconds(waitNanos);
+        if (waitNanos % TimeUnit.SECONDS.toNanos(1) != 0) {
+            seconds++;
+        }
+        return Math.max(1, seconds);
+    }
+
+    private void releaseHeavy(ClientState client) {
+        heavyPermits.release();
+        client.releaseHeavy();
+    }
+
+    /**
+     * Returns the state of the given client, creating it if there is room.
+     *
+     * Once maxTrackedClients clients are tracked, idle clients are swept out, at most
+     * once per second so the cost of a sweep is spread over many requests. If the map
+     * is still full, the client shares one overflow state with every other untracked
+     * client, which keeps memory bounded when source addresses keep changing.
+     */
+    private ClientState clientStateFor(String clientId, long now) {
+        ClientState client = clients.get(clientId);
+        if (client != null) {
+            return client;
+        }
+        if (clients.size() >= maxTrackedClients) {
+            sweepIdleClients(now);
+            if (clients.size() >= maxTrackedClients) {
+                return overflowClient;
+            }
+        }
+        return clients.computeIfAbsent(clientId, key -> new ClientState(new TokenBucket(bucketCapacity, refillPerSecond, now)));
+    }
+
+    private void sweepIdleClients(long now) {
+        long next = nextSweepNanos.get();
+        if (now - next < 0 || !nextSweepNanos.compareAndSet(next, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        clients.values().removeIf(client -> client.isIdle(now));
+    }
+}
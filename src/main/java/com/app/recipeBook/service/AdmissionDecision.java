@@ -0,0 +1,43 @@
+package com.app.recipeBook.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The outcome of {@link AdmissionControlService#tryAdmit(String, int)}. An admitted
+ * heavy request holds permits until the decision is passed to
+ * {@link AdmissionControlService#release(AdmissionDecision)}; releasing it more than
+ * once has no effect.
+ */
+public class AdmissionDecision {
+    private final boolean admitted;
+    private final long retryAfterSeconds;
+    private final Runnable releaseAction;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    // Constructor with parameters
+    AdmissionDecision(boolean admitted, long retryAfterSeconds, Runnable releaseAction) {
+        this.admitted = admitted;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.releaseAction = releaseAction;
+    }
+
+    // Getter for admitted
+    public boolean isAdmitted() {
+        return admitted;
+    }
+
+    // Getter for retryAfterSeconds
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public boolean holdsHeavyPermit() {
+        return releaseAction != null && !released.get();
+    }
+
+    void release() {
+        if (releaseAction != null && released.compareAndSet(false, true)) {
+            releaseAction.run();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.app.recipeBook.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The admission state kept for one client: its token bucket and the number of
+ * heavy filter queries it is running right now.
+ */
+final class ClientState {
+
+    private final TokenBucket bucket;
+    private final AtomicInteger heavyInFlight = new AtomicInteger();
+
+    ClientState(TokenBucket bucket) {
+        this.bucket = bucket;
+    }
+
+    TokenBucket getBucket() {
+        return bucket;
+    }
+
+    /**
+     * Takes one of the client's heavy query slots if fewer than the given number are in use.
+     *
+     * @param maxHeavyInFlight The number of heavy queries the client may run at the same time.
+     * @return true if a slot was taken.
+     */
+    boolean tryAcquireHeavy(int maxHeavyInFlight) {
+        while (true) {
+            int current = heavyInFlight.get();
+            if (current >= maxHeavyInFlight) {
+                return false;
+            }
+            if (heavyInFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void releaseHeavy() {
+        heavyInFlight.decrementAndGet();
+    }
+
+    /**
+     * Checks whether the client can be forgotten: it runs no heavy query and its
+     * bucket has refilled completely.
+     *
+     * @param nowNanos The current time from the service clock.
+     * @return true if dropping the state has no effect on the client.
+     */
+    boolean isIdle(long nowNanos) {
+        return heavyInFlight.get() == 0 && bucket.isFull(nowNanos);
+    }
+}
@@ -0,0 +1,73 @@
+package com.app.recipeBook.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A lock-free token bucket used to rate limit a single client.
+ *
+ * The bucket holds up to {@code capacity} tokens and refills continuously at
+ * {@code refillPerSecond} tokens per second. The current state is kept in an
+ * immutable snapshot that is swapped with compare-and-set, so concurrent requests
+ * from the same client never block each other.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(double capacity, double refillPerSecond, long nowNanos) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / NANOS_PER_SECOND;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Tries to take the given number of tokens from the bucket.
+     *
+     * @param cost The number of tokens the request needs.
+     * @param nowNanos The current time from System.nanoTime().
+     * @return 0 if the tokens were taken, otherwise the number of nanoseconds
+     *         until enough tokens will be available.
+     */
+    long tryConsume(double cost, long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = refill(current, nowNanos);
+            if (tokens < cost) {
+                return (long) Math.ceil((cost - tokens) / refillPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - cost, Math.max(current.lastRefillNanos, nowNanos)))) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the bucket has refilled completely, which means the client
+     * has been idle long enough for the bucket to be dropped without any effect.
+     *
+     * @param nowNanos The current time from System.nanoTime().
+     * @return true if the bucket is full.
+     */
+    boolean isFull(long nowNanos) {
+        return refill(state.get(), nowNanos) >= capacity;
+    }
+
+    private double refill(State current, long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - current.lastRefillNanos);
+        return Math.min(capacity, current.tokens + elapsed * refillPerNano);
+    }
+
+    private static final class State {
+        private final double tokens;
+        private final long lastRefillNanos;
+
+        private State(double tokens, long lastRefillNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = lastRefillNanos;
+        }
+    }
+}
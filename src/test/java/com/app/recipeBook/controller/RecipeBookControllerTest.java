@@ -0,0 +1,50 @@
+package com.app.recipeBook.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.app.recipeBook.service.AdmissionControlService;
+import com.app.recipeBook.service.RecipeBookService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RecipeBookControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RecipeBookService recipeBookService = mock(RecipeBookService.class);
+
+    @Test
+    void heavyFilterThatThrowsReleasesItsPermit() throws Exception {
+        AdmissionControlService admissionControlService = new AdmissionControlService(1000, 1000, 5, 1, 1, 100);
+        RecipeBookController controller = new RecipeBookController(recipeBookService, admissionControlService);
+        JsonNode heavy = objectMapper.readTree("{\"instructionsNotContaining\": \"oven\"}");
+        when(recipeBookService.filterBy(any())).thenThrow(new IllegalStateException("query failed"));
+
+        assertThrows(IllegalStateException.class, () -> controller.filterBy(heavy, new MockHttpServletRequest()));
+
+        assertTrue(admissionControlService.tryAdmit("127.0.0.1", 5).isAdmitted());
+    }
+
+    @Test
+    void rejectedFilterReturnsTooManyRequestsWithRetryAfter() throws Exception {
+        AdmissionControlService admissionControlService = new AdmissionControlService(5, 1, 100, 1, 1, 100);
+        RecipeBookController controller = new RecipeBookController(recipeBookService, admissionControlService);
+        JsonNode criteria = objectMapper.readTree("{\"instructionsNotContaining\": \"oven\"}");
+        admissionControlService.tryAdmit("127.0.0.1", 5);
+
+        ResponseEntity<?> response = controller.filterBy(criteria, new MockHttpServletRequest());
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("5", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+}
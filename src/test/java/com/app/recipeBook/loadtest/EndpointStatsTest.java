@@ -0,0 +1,62 @@
+package com.app.recipeBook.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class EndpointStatsTest {
+
+    @Test
+    void mapsStatusesToClasses() {
+        assertEquals("2xx", EndpointStats.statusClass("201"));
+        assertEquals("4xx", EndpointStats.statusClass("404"));
+        assertEquals("429", EndpointStats.statusClass("429"));
+        assertEquals("5xx", EndpointStats.statusClass("500"));
+        assertEquals("error", EndpointStats.statusClass(EndpointStats.ERROR));
+    }
+
+    @Test
+    void keepsLatenciesApartPerStatusClass() {
+        EndpointStats stats = new EndpointStats("POST /recipes/filter");
+        stats.record(TimeUnit.MILLISECONDS.toNanos(50), "200");
+        stats.record(TimeUnit.MILLISECONDS.toNanos(60), "200");
+        stats.record(TimeUnit.MICROSECONDS.toNanos(100), "429");
+
+        assertEquals(List.of("2xx", "429"), List.copyOf(stats.getLatenciesByStatusClass().keySet()));
+        assertEquals(2, stats.getLatenciesByStatusClass().get("2xx").getTotalCount());
+        assertTrue(stats.getLatenciesByStatusClass().get("2xx").getValueAtPercentile(50) >= 49_000);
+        assertEquals(1, stats.getLatenciesByStatusClass().get("429").getTotalCount());
+        assertTrue(stats.getLatenciesByStatusClass().get("429").getMaxValue() < 1_000);
+    }
+
+    @Test
+    void clampsLatenciesOutsideTrackableRange() {
+        EndpointStats stats = new EndpointStats("GET /recipes");
+        stats.record(-5, "200");
+        stats.record(TimeUnit.HOURS.toNanos(1), "200");
+
+        assertEquals(2, stats.getLatenciesByStatusClass().get("2xx").getTotalCount());
+    }
+
+    @Test
+    void summaryPrintsOneRowPerStatusClassWithItsCodes() {
+        EndpointStats stats = new EndpointStats("PUT /recipes/{id}");
+        stats.record(1_000_000, "200");
+        stats.record(1_000_000, "404");
+        stats.record(1_000_000, "409");
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        stats.printSummary(new PrintStream(buffer, true), 1);
+
+        String[] rows = buffer.toString().trim().split("\\R");
+        assertEquals(2, rows.length);
+        assertTrue(rows[0].startsWith("PUT /recipes/{id} [2xx]") && rows[0].endsWith("200=1"));
+        assertTrue(rows[1].startsWith("PUT /recipes/{id} [4xx]") && rows[1].endsWith("404=1 409=1"));
+    }
+}
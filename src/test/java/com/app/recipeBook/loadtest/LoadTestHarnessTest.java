@@ -0,0 +1,73 @@
+package com.app.recipeBook.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+class LoadTestHarnessTest {
+
+    private HttpServer server;
+    private URI baseUri;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            int status = switch (exchange.getRequestURI().getPath()) {
+                case "/recipes" -> "POST".equals(exchange.getRequestMethod()) ? 201 : 200;
+                case "/broken" -> 500;
+                default -> 404;
+            };
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        baseUri = URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    private static RequestTemplate template(String method, String path) {
+        return new RequestTemplate(method, path, null, Map.of());
+    }
+
+    @Test
+    void seedCountsStatusesPerEndpoint() throws Exception {
+        LoadTestHarness harness = new LoadTestHarness(baseUri, List.of(
+            template("POST", "/recipes"),
+            template("POST", "/recipes"),
+            template("GET", "/recipes"),
+            template("DELETE", "/recipes/4")), false);
+
+        Map<String, Map<String, Integer>> statuses = harness.seed();
+
+        assertEquals(Map.of("201", 2), statuses.get("POST /recipes"));
+        assertEquals(Map.of("200", 1), statuses.get("GET /recipes"));
+        assertEquals(Map.of("404", 1), statuses.get("DELETE /recipes/{id}"));
+    }
+
+    @Test
+    void seedStopsOnServerErrors() {
+        LoadTestHarness harness = new LoadTestHarness(baseUri, List.of(
+            template("POST", "/recipes"),
+            template("POST", "/broken")), false);
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, harness::seed);
+        assertTrue(error.getMessage().contains("POST /broken -> 500"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.app.recipeBook.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RequestMixLoaderTest {
+
+    private final RequestMixLoader loader = new RequestMixLoader();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void loadsPostmanRequestsInOrderIncludingFolders() throws Exception {
+        Path collection = Files.writeString(directory.resolve("collection.json"), """
+            {"item": [
+              {"name": "list", "request": {"method": "GET",
+                "url": {"raw": "localhost:8080/recipes", "path": ["recipes"]}}},
+              {"name": "folder", "item": [
+                {"name": "delete", "request": {"method": "DELETE",
+                  "url": {"raw": "localhost:8080/recipes/2", "path": ["recipes", "2"]}}}
+              ]},
+              {"name": "filter", "request": {"method": "POST",
+                "body": {"mode": "raw", "raw": "{\\"isVegetarian\\": true}"},
+                "url": "http://localhost:8080/recipes/filter"}}
+            ]}
+            """);
+
+        List<RequestTemplate> requests = loader.loadPostmanCollection(collection);
+
+        assertEquals(3, requests.size());
+        assertEquals("GET /recipes", requests.get(0).getEndpoint());
+        assertEquals("/recipes/2", requests.get(1).getPath());
+        assertEquals("POST /recipes/filter", requests.get(2).getEndpoint());
+        assertEquals("{\"isVegetarian\": true}", requests.get(2).getBody());
+    }
+
+    @Test
+    void skipsDisabledHeadersNonRawBodiesAndVariables() throws Exception {
+        Path collection = Files.writeString(directory.resolve("collection.json"), """
+            {"item": [
+              {"name": "create", "request": {"method": "POST",
+                "header": [
+                  {"key": "X-Enabled", "value": "yes"},
+                  {"key": "X-Disabled", "value": "no", "disabled": true}
+                ],
+                "body": {"mode": "formdata", "formdata": []},
+                "url": {"raw": "localhost:8080/recipes", "path": ["recipes"]}}},
+              {"name": "templated", "request": {"method": "POST",
+                "body": {"mode": "raw", "raw": "{\\"ingredientsNotContain\\": {{names}}}"},
+                "url": {"raw": "localhost:8080/recipes/filter", "path": ["recipes", "filter"]}}}
+            ]}
+            """);
+
+        List<RequestTemplate> requests = loader.loadPostmanCollection(collection);
+
+        assertEquals(1, requests.size());
+        assertNull(requests.get(0).getBody());
+        HttpRequest request = requests.get(0).toHttpRequest(URI.create("http://localhost:8080"), Duration.ofSeconds(1));
+        assertEquals("yes", request.headers().firstValue("X-Enabled").orElse(null));
+        assertFalse(request.headers().firstValue("X-Disabled").isPresent());
+    }
+
+    @Test
+    void loadsJsonLinesAndSkipsOtherRecords() throws Exception {
+        Path file = Files.writeString(directory.resolve("requests.jsonl"), """
+            {"method": "post", "path": "/recipes/filter", "body": {"numberOfServings": 4}}
+            {"method": "POST", "path": "recipes", "body": "{\\"name\\": \\"Soup\\"}"}
+
+            {"method": "GET", "path": "/ingredients"}
+            {"request_id": "user-001", "title": "not a request"}
+            not json at all
+            """);
+
+        List<RequestTemplate> requests = loader.loadJsonLines(file);
+
+        assertEquals(3, requests.size());
+        assertEquals("POST /recipes/filter", requests.get(0).getEndpoint());
+        assertEquals("{\"numberOfServings\":4}", requests.get(0).getBody());
+        assertEquals("/recipes", requests.get(1).getPath());
+        assertEquals("{\"name\": \"Soup\"}", requests.get(1).getBody());
+        assertNull(requests.get(2).getBody());
+    }
+}
@@ -0,0 +1,84 @@
+package com.app.recipeBook.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class RequestTemplateTest {
+
+    private static RequestTemplate template(String method, String path, String body) {
+        return new RequestTemplate(method, path, body, Map.of());
+    }
+
+    @Test
+    void endpointReplacesNumericSegmentsWithId() {
+        assertEquals("PUT /recipes/{id}", template("put", "/recipes/12", null).getEndpoint());
+        assertEquals("GET /recipes/{id}/ingredients", template("GET", "recipes/3/ingredients", null).getEndpoint());
+        assertEquals("POST /recipes/filter", template("POST", "/recipes/filter", null).getEndpoint());
+        assertEquals("GET /recipes2", template("GET", "/recipes2", null).getEndpoint());
+    }
+
+    @Test
+    void classifiesReadOnlyAndCreateRequests() {
+        assertTrue(template("GET", "/recipes", null).isReadOnly());
+        assertTrue(template("POST", "/recipes/filter", "{}").isReadOnly());
+        assertFalse(template("POST", "/recipes", "{}").isReadOnly());
+        assertFalse(template("DELETE", "/recipes/1", null).isReadOnly());
+
+        assertTrue(template("POST", "/recipes", "{}").isCreate());
+        assertFalse(template("PUT", "/recipes/1", "{}").isCreate());
+    }
+
+    @Test
+    void nameSuffixRenamesRecipeAndIngredients() throws Exception {
+        RequestTemplate renamed = template("POST", "/recipes",
+            "{\"name\": \"Soup\", \"numberOfServings\": 2, \"ingredients\": [{\"name\": \"leek\"}, {\"name\": \"salt\"}]}")
+            .withNameSuffix(" #7");
+
+        JsonNode body = new ObjectMapper().readTree(renamed.getBody());
+        assertEquals("Soup #7", body.get("name").asText());
+        assertEquals(2, body.get("numberOfServings").asInt());
+        assertEquals("leek #7", body.get("ingredients").get(0).get("name").asText());
+        assertEquals("salt #7", body.get("ingredients").get(1).get("name").asText());
+    }
+
+    @Test
+    void nameSuffixKeepsBodiesThatAreNotJsonObjects() {
+        RequestTemplate noBody = template("POST", "/recipes", null);
+        RequestTemplate invalid = template("POST", "/recipes", "not json");
+
+        assertSame(noBody, noBody.withNameSuffix(" #1"));
+        assertSame(invalid, invalid.withNameSuffix(" #1"));
+    }
+
+    @Test
+    void detectsPostmanVariables() {
+        assertTrue(template("POST", "/recipes/filter", "{\"a\": {{list}}}").hasVariables());
+        assertTrue(template("GET", "/recipes/{{id}}", null).hasVariables());
+        assertFalse(template("POST", "/recipes/filter", "{\"a\": 1}").hasVariables());
+    }
+
+    @Test
+    void httpRequestDefaultsToJsonContentType() {
+        HttpRequest request = template("POST", "/recipes/filter", "{}")
+            .toHttpRequest(URI.create("http://localhost:8080"), Duration.ofSeconds(1));
+
+        assertEquals(URI.create("http://localhost:8080/recipes/filter"), request.uri());
+        assertEquals("POST", request.method());
+        assertEquals("application/json", request.headers().firstValue("Content-Type").orElse(null));
+        assertFalse(template("GET", "/recipes", null)
+            .toHttpRequest(URI.create("http://localhost:8080"), Duration.ofSeconds(1))
+            .headers().firstValue("Content-Type").isPresent());
+    }
+}
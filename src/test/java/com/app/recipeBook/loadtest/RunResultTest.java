@@ -0,0 +1,28 @@
+package com.app.recipeBook.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class RunResultTest {
+
+    @Test
+    void achievedRateCountsResponsesOverElapsedTime() {
+        EndpointStats filter = new EndpointStats("POST /recipes/filter");
+        for (int i = 0; i < 300; i++) {
+            filter.record(1_000_000, i % 3 == 0 ? "404" : "200");
+        }
+        EndpointStats recipes = new EndpointStats("GET /recipes");
+        for (int i = 0; i < 100; i++) {
+            recipes.record(1_000_000, i < 20 ? EndpointStats.ERROR : "200");
+        }
+
+        RunResult result = new RunResult(Map.of("POST /recipes/filter", filter, "GET /recipes", recipes), 500, 2);
+
+        assertEquals(380, result.getResponseCount());
+        assertEquals(190, result.getAchievedRate(), 1e-9);
+        assertEquals(500, result.getOfferedRate(), 1e-9);
+    }
+}
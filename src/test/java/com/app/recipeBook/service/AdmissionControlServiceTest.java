@@ -0,0 +1,176 @@
+package com.app.recipeBook.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AdmissionControlServiceTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdmissionControlService service(double capacity, double refillPerSecond, int heavyMaxConcurrent,
+            int heavyMaxPerClient, int maxTrackedClients) {
+        return new AdmissionControlService(capacity, refillPerSecond, 5, heavyMaxConcurrent, heavyMaxPerClient, maxTrackedClients, clock::get);
+    }
+
+    private int cost(AdmissionControlService service, String criteria) throws Exception {
+        JsonNode node = objectMapper.readTree(criteria);
+        return service.estimateFilterCost(node);
+    }
+
+    @Test
+    void estimatesCostForEachCriterion() throws Exception {
+        AdmissionControlService service = service(60, 20, 4, 1, 100);
+
+        assertEquals(1, cost(service, "{}"));
+        assertEquals(1, cost(service, "{\"numberOfServings\": 4}"));
+        assertEquals(1, cost(service, "{\"isVegetarian\": true}"));
+        assertEquals(3, cost(service, "{\"instructionsContaining\": \"oven\"}"));
+        assertEquals(5, cost(service, "{\"instructionsNotContaining\": \"oven\"}"));
+        assertEquals(2, cost(service, "{\"ingredientsContain\": [\"a\", \"b\", \"c\"]}"));
+        assertEquals(3, cost(service, "{\"ingredientsContain\": [\"a\", \"b\", \"c\", \"d\"]}"));
+        assertEquals(3, cost(service, "{\"ingredientsNotContain\": [\"a\"]}"));
+        assertEquals(5, cost(service, "{\"ingredientsNotContain\": [\"a\", \"b\", \"c\", \"d\"]}"));
+        assertEquals(10, cost(service, "{\"instructionsContaining\": \"a\", \"instructionsNotContaining\": \"b\", "
+            + "\"ingredientsContain\": [\"c\"], \"ingredientsNotContain\": [\"d\"]}"));
+    }
+
+    @Test
+    void costIsNotCappedByEstimate() throws Exception {
+        AdmissionControlService service = service(10, 1, 4, 1, 100);
+
+        assertEquals(53, cost(service, "{\"ingredientsNotContain\": [" + "\"x\",".repeat(99) + "\"x\"]}"));
+    }
+
+    @Test
+    void costAboveCapacityIsChargedAtCapacityAndStaysHeavy() {
+        AdmissionControlService service = service(4, 1, 1, 1, 100);
+        AdmissionDecision oversized = service.tryAdmit("a", 100);
+        assertTrue(oversized.isAdmitted());
+        assertTrue(oversized.holdsHeavyPermit());
+
+        assertFalse(service.tryAdmit("b", 100).isAdmitted());
+        assertEquals(1, service.tryAdmit("a", 1).getRetryAfterSeconds());
+    }
+
+    @Test
+    void rejectsLimitsThatDisableAdmission() {
+        assertThrows(IllegalArgumentException.class, () -> service(60, 0, 4, 1, 100));
+        assertThrows(IllegalArgumentException.class, () -> service(60, -1, 4, 1, 100));
+        assertThrows(IllegalArgumentException.class, () -> service(0, 20, 4, 1, 100));
+        assertThrows(IllegalArgumentException.class, () -> service(60, 20, 0, 1, 100));
+        assertThrows(IllegalArgumentException.class, () -> service(60, 20, 4, 0, 100));
+    }
+
+    @Test
+    void retryAfterDoesNotOverflowForSlowRefill() {
+        AdmissionControlService service = service(10, 1e-12, 4, 1, 100);
+        assertTrue(service.tryAdmit("a", 3).isAdmitted());
+        assertTrue(service.tryAdmit("a", 3).isAdmitted());
+        assertTrue(service.tryAdmit("a", 3).isAdmitted());
+
+        assertTrue(service.tryAdmit("a", 3).getRetryAfterSeconds() > 1_000_000);
+        assertTrue(service.tryAdmit("a", 10).getRetryAfterSeconds() > 1_000_000);
+    }
+
+    @Test
+    void retryAfterReflectsRefillRate() {
+        AdmissionControlService service = service(10, 2, 4, 1, 100);
+        assertTrue(service.tryAdmit("a", 4).isAdmitted());
+        assertTrue(service.tryAdmit("a", 4).isAdmitted());
+
+        AdmissionDecision rejected = service.tryAdmit("a", 4);
+        assertFalse(rejected.isAdmitted());
+        assertEquals(1, rejected.getRetryAfterSeconds());
+
+        assertTrue(service.tryAdmit("a", 2).isAdmitted());
+        assertEquals(2, service.tryAdmit("a", 4).getRetryAfterSeconds());
+    }
+
+    @Test
+    void heavyRequestRejectedByBucketReleasesItsPermits() {
+        AdmissionControlService service = service(5, 1, 1, 1, 100);
+        AdmissionDecision first = service.tryAdmit("a", 5);
+        assertTrue(first.isAdmitted());
+        service.release(first);
+
+        assertFalse(service.tryAdmit("a", 5).isAdmitted());
+
+        AdmissionDecision other = service.tryAdmit("b", 5);
+        assertTrue(other.isAdmitted());
+        service.release(other);
+
+        clock.addAndGet(5 * SECOND);
+        assertTrue(service.tryAdmit("a", 5).isAdmitted());
+    }
+
+    @Test
+    void heavyQueriesAreCappedPerClient() {
+        AdmissionControlService service = service(60, 20, 2, 1, 100);
+        AdmissionDecision running = service.tryAdmit("a", 5);
+        assertTrue(running.isAdmitted());
+
+        AdmissionDecision second = service.tryAdmit("a", 5);
+        assertFalse(second.isAdmitted());
+        assertEquals(1, second.getRetryAfterSeconds());
+        assertTrue(service.tryAdmit("a", 1).isAdmitted());
+        assertTrue(service.tryAdmit("b", 5).isAdmitted());
+
+        service.release(running);
+        assertTrue(service.tryAdmit("a", 5).isAdmitted());
+    }
+
+    @Test
+    void heavyQueriesAreCappedGlobally() {
+        AdmissionControlService service = service(60, 20, 1, 1, 100);
+        AdmissionDecision running = service.tryAdmit("a", 5);
+        assertTrue(running.isAdmitted());
+
+        assertFalse(service.tryAdmit("b", 5).isAdmitted());
+
+        service.release(running);
+        assertTrue(service.tryAdmit("b", 5).isAdmitted());
+    }
+
+    @Test
+    void untrackedClientsShareOverflowBucketUntilIdleClientsAreSwept() {
+        AdmissionControlService service = service(4, 1, 4, 1, 1);
+        assertTrue(service.tryAdmit("a", 4).isAdmitted());
+
+        assertTrue(service.tryAdmit("b", 4).isAdmitted());
+        assertFalse(service.tryAdmit("c", 1).isAdmitted());
+
+        clock.addAndGet(20 * SECOND);
+        assertTrue(service.tryAdmit("d", 4).isAdmitted());
+        assertTrue(service.tryAdmit("e", 4).isAdmitted());
+        assertFalse(service.tryAdmit("f", 1).isAdmitted());
+        assertFalse(service.tryAdmit("d", 1).isAdmitted());
+    }
+
+    @Test
+    void releasingTwiceReleasesOnlyOnce() {
+        AdmissionControlService service = service(60, 20, 1, 1, 100);
+        AdmissionDecision running = service.tryAdmit("a", 5);
+        assertTrue(running.holdsHeavyPermit());
+
+        service.release(running);
+        service.release(running);
+        assertFalse(running.holdsHeavyPermit());
+
+        assertTrue(service.tryAdmit("a", 5).isAdmitted());
+        assertFalse(service.tryAdmit("a", 5).isAdmitted());
+        assertFalse(service.tryAdmit("b", 5).isAdmitted());
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.recipeBook.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void startsFullAndRejectsOnceEmpty() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+
+        assertEquals(0, bucket.tryConsume(10, 0));
+        assertTrue(bucket.tryConsume(1, 0) > 0);
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        bucket.tryConsume(10, 0);
+
+        assertTrue(bucket.tryConsume(3, SECOND) > 0);
+        assertEquals(0, bucket.tryConsume(2, SECOND));
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        bucket.tryConsume(10, 0);
+
+        assertEquals(0, bucket.tryConsume(10, 100 * SECOND));
+        assertTrue(bucket.tryConsume(1, 100 * SECOND) > 0);
+    }
+
+    @Test
+    void waitTimeCoversMissingTokens() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        bucket.tryConsume(10, 0);
+
+        assertEquals(2 * SECOND, bucket.tryConsume(4, 0), 1);
+        assertEquals(SECOND / 2, bucket.tryConsume(1, 0), 1);
+        assertEquals(SECOND, bucket.tryConsume(4, SECOND), 1);
+    }
+
+    @Test
+    void rejectedRequestTakesNoTokens() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        bucket.tryConsume(8, 0);
+
+        assertTrue(bucket.tryConsume(5, 0) > 0);
+        assertEquals(0, bucket.tryConsume(2, 0));
+    }
+
+    @Test
+    void isFullOnceRefilled() {
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+        assertTrue(bucket.isFull(0));
+
+        bucket.tryConsume(4, 0);
+        assertFalse(bucket.isFull(SECOND));
+        assertTrue(bucket.isFull(2 * SECOND));
+    }
+}